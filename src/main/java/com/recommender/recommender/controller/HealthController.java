@@ -1,6 +1,9 @@
 package com.recommender.recommender.controller;
 
+import com.recommender.recommender.service.CacheWarmupService;
 import com.recommender.recommender.service.RecommendationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
@@ -11,9 +14,11 @@ import java.util.*;
 public class HealthController {
 
     private final RecommendationService service;
+    private final CacheWarmupService warmupService;
 
-    public HealthController(RecommendationService service) {
+    public HealthController(RecommendationService service, CacheWarmupService warmupService) {
         this.service = service;
+        this.warmupService = warmupService;
     }
 
     @GetMapping("/health")
@@ -25,11 +30,21 @@ public class HealthController {
             m.put("items", service.getItemCount());
             m.put("interactionsUsers", service.getInteractedUserCount());
             m.put("hybridWeights", Map.of("cf", service.getHybridWCF(), "content", service.getHybridWContent()));
+            m.put("warmup", warmupService.getStatus());
         } catch (Exception e) {
             m.put("status", "ERROR");
             m.put("message", e.getMessage());
         }
         return m;
     }
+
+    @GetMapping("/ready")
+    public ResponseEntity<Map<String, Object>> ready() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        boolean ready = warmupService.isReady();
+        m.put("status", ready ? "READY" : "WARMING_UP");
+        m.put("warmup", warmupService.getStatus());
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(m);
+    }
 }
 
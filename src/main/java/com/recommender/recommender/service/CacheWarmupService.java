@@ -0,0 +1,233 @@
+package com.recommender.recommender.service;
+
+import com.recommender.recommender.config.InFlightRequestFilter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background warm-up of the Redis recommendation caches.
+ *
+ * Once artifacts are loaded, precomputes the popular lists, the recommendations of the
+ * most active users and the similar lists of the most viewed items, so the first
+ * requests after a deploy don't each pay for a full-catalog scan.
+ *
+ * Runs on a single background thread, throttled to at most {@code reco.warmup.rate-per-second}
+ * entries per second, and pauses entirely while more than {@code reco.warmup.max-in-flight}
+ * live requests are being served.
+ */
+@Service
+public class CacheWarmupService {
+
+    private static final int MAX_CONSECUTIVE_FAILURES = 5;
+    private static final long BACKOFF_MILLIS = 50;
+
+    private final RecommendationService service;
+    private final InFlightRequestFilter inFlightRequests;
+
+    @Value("${reco.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reco.warmup.top-users:200}")
+    private int topUsers;
+
+    @Value("${reco.warmup.top-items:200}")
+    private int topItems;
+
+    @Value("${reco.warmup.limits:5}")
+    private int[] limits;
+
+    @Value("${reco.warmup.rate-per-second:20}")
+    private double ratePerSecond;
+
+    @Value("${reco.warmup.max-in-flight:2}")
+    private int maxInFlight;
+
+    @Value("${reco.warmup.readiness-threshold:0.0}")
+    private double readinessThreshold;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "cache-warmup");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private volatile WarmupRun current = new WarmupRun(0, "IDLE");
+    private Future<?> currentFuture;
+
+    public CacheWarmupService(RecommendationService service, InFlightRequestFilter inFlightRequests) {
+        this.service = service;
+        this.inFlightRequests = inFlightRequests;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        start();
+    }
+
+    /**
+     * (Re)starts warm-up, cancelling any run in progress. Call this after reloading
+     * model artifacts so the caches are refilled against the new model.
+     * Does nothing but mark the state DISABLED when {@code reco.warmup.enabled} is false.
+     */
+    public synchronized void start() {
+        if (currentFuture != null) currentFuture.cancel(true);
+
+        if (!enabled) {
+            System.out.println("ℹ️ Cache warm-up disabled (reco.warmup.enabled=false)");
+            current = new WarmupRun(0, "DISABLED");
+            return;
+        }
+
+        if (ratePerSecond <= 0) {
+            System.out.println("⚠️ Cache warm-up not started: reco.warmup.rate-per-second must be > 0, got " + ratePerSecond);
+            current = new WarmupRun(0, "FAILED");
+            return;
+        }
+
+        WarmupRun warmupRun = new WarmupRun(0, "RUNNING");
+        current = warmupRun;
+        // Planning walks every interaction, so it runs on the warm-up thread as well
+        currentFuture = executor.submit(() -> {
+            List<Runnable> tasks;
+            try {
+                tasks = planTasks();
+            } catch (RuntimeException e) {
+                System.out.println("⚠️ Cache warm-up planning failed: " + e.getMessage());
+                warmupRun.state = "FAILED";
+                return;
+            }
+            warmupRun.total = tasks.size();
+            System.out.println("🔥 Cache warm-up scheduled: " + tasks.size() + " entries at " + ratePerSecond + "/s");
+            run(warmupRun, tasks);
+        });
+    }
+
+    private List<Runnable> planTasks() {
+        List<Runnable> tasks = new ArrayList<>();
+        // Popular lists first: they are the fallback for every cold-start user
+        for (int limit : limits) {
+            tasks.add(() -> service.warmPopular(limit));
+        }
+        List<String> users = service.getMostActiveUsers(topUsers);
+        List<String> itemIds = service.getMostViewedItems(topItems);
+        // Interleave users and items so a partial warm-up covers both endpoints
+        for (int i = 0; i < Math.max(users.size(), itemIds.size()); i++) {
+            for (int limit : limits) {
+                if (i < users.size()) {
+                    String userId = users.get(i);
+                    tasks.add(() -> service.warmUserRecommendations(userId, limit));
+                }
+                if (i < itemIds.size()) {
+                    String itemId = itemIds.get(i);
+                    tasks.add(() -> service.warmSimilarItems(itemId, limit));
+                }
+            }
+        }
+        return tasks;
+    }
+
+    private void run(WarmupRun warmupRun, List<Runnable> tasks) {
+        long pauseNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        int consecutiveFailures = 0;
+        long startedAt = System.nanoTime();
+
+        for (Runnable task : tasks) {
+            if (Thread.currentThread().isInterrupted()) {
+                warmupRun.state = "CANCELLED";
+                return;
+            }
+            try {
+                // Yield to live traffic: hold off while requests are being served
+                while (inFlightRequests.getInFlight() > maxInFlight) {
+                    Thread.sleep(BACKOFF_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                warmupRun.state = "CANCELLED";
+                return;
+            }
+            long taskStart = System.nanoTime();
+            try {
+                task.run();
+                warmupRun.completed.incrementAndGet();
+                consecutiveFailures = 0;
+            } catch (Exception e) {
+                warmupRun.failed.incrementAndGet();
+                if (++consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+                    System.out.println("⚠️ Cache warm-up aborted after " + consecutiveFailures + " consecutive failures: " + e.getMessage());
+                    warmupRun.state = "FAILED";
+                    return;
+                }
+            }
+
+            long sleepNanos = pauseNanos - (System.nanoTime() - taskStart);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    warmupRun.state = "CANCELLED";
+                    return;
+                }
+            }
+        }
+
+        warmupRun.state = "DONE";
+        System.out.printf("✅ Cache warm-up finished: %d/%d entries warmed (%d failed) in %d ms%n",
+                warmupRun.completed.get(), warmupRun.total, warmupRun.failed.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * Ready once warm-up has reached {@code reco.warmup.readiness-threshold}.
+     * A threshold of 0 (the default) never holds readiness back; a run that stopped
+     * early (failed, cancelled, disabled) does not block it either, warm-up is best-effort.
+     */
+    public boolean isReady() {
+        WarmupRun run = current;
+        if (readinessThreshold <= 0) return true;
+        if (!"RUNNING".equals(run.state) && !"IDLE".equals(run.state)) return true;
+        return run.progress() >= readinessThreshold;
+    }
+
+    public Map<String, Object> getStatus() {
+        WarmupRun run = current;
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("state", run.state);
+        m.put("total", run.total);
+        m.put("completed", run.completed.get());
+        m.put("failed", run.failed.get());
+        m.put("progress", run.progress());
+        m.put("readinessThreshold", readinessThreshold);
+        return m;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Progress of a single warm-up pass; a restart swaps in a fresh instance so a
+    // cancelled run can never overwrite the counters of its replacement.
+    // completed counts successful cache writes only; failed entries are not warm.
+    private static class WarmupRun {
+        volatile int total;
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        volatile String state;
+
+        WarmupRun(int total, String state) {
+            this.total = total;
+            this.state = state;
+        }
+
+        double progress() {
+            if (total == 0) return "DONE".equals(state) ? 1.0 : 0.0;
+            return (double) completed.get() / total;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.recommender.recommender.model.Product;
 import com.recommender.recommender.model.RecommendationResponse;
 import com.recommender.recommender.utils.MathUtils;
 import jakarta.annotation.PostConstruct;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -222,6 +223,52 @@ public class RecommendationService {
     }
 
 
+    // --------------------------
+    // 🔥 Cache warm-up hooks
+    // --------------------------
+    // Called through the Spring proxy by CacheWarmupService. The inner calls are
+    // self-invocations, so they always recompute and overwrite stale entries.
+
+    @CachePut(cacheNames = "recs:user", key = "#userId + ':' + #limit", unless = "#result == null || #result.isEmpty()")
+    public List<RecommendationResponse> warmUserRecommendations(String userId, int limit) {
+        return recommendForUser(userId, limit);
+    }
+
+    @CachePut(cacheNames = "recs:similar", key = "#itemId + ':' + #limit", unless = "#result == null || #result.isEmpty()")
+    public List<RecommendationResponse> warmSimilarItems(String itemId, int limit) {
+        return getSimilarItems(itemId, limit);
+    }
+
+    @CachePut(cacheNames = "recs:popular", key = "#limit", unless = "#result == null || #result.isEmpty()")
+    public List<RecommendationResponse> warmPopular(int limit) {
+        return getPopularItems(limit);
+    }
+
+    /** Users with the most recorded interactions and a factor row, most active first. */
+    public List<String> getMostActiveUsers(int n) {
+        return interactionsByUser.entrySet().stream()
+                .filter(e -> user2idx.containsKey(e.getKey()))
+                .sorted((a, b) -> Integer.compare(b.getValue().size(), a.getValue().size()))
+                .limit(n)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /** Items that appear most often across all user interactions, most viewed first. */
+    public List<String> getMostViewedItems(int n) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (List<String> itemIds : interactionsByUser.values()) {
+            for (String itemId : itemIds) counts.merge(itemId, 1, Integer::sum);
+        }
+        return counts.entrySet().stream()
+                .filter(e -> item2idx.containsKey(e.getKey()))
+                .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
+                .limit(n)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+
     // --------------------------
     // 🧩 Utility Helpers
     // --------------------------
@@ -3,7 +3,7 @@ package com.recommender.recommender;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "reco.warmup.enabled=false")
 class RecommenderApplicationTests {
 
 	@Test
@@ -0,0 +1,205 @@
+package com.recommender.recommender.service;
+
+import com.recommender.recommender.config.InFlightRequestFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CacheWarmupServiceTest {
+
+	private RecommendationService service;
+	private AtomicInteger liveRequests;
+	private CacheWarmupService warmup;
+
+	@BeforeEach
+	void setUp() {
+		service = mock(RecommendationService.class);
+		liveRequests = new AtomicInteger();
+		InFlightRequestFilter filter = mock(InFlightRequestFilter.class);
+		when(filter.getInFlight()).thenAnswer(inv -> liveRequests.get());
+
+		warmup = new CacheWarmupService(service, filter);
+		ReflectionTestUtils.setField(warmup, "enabled", true);
+		ReflectionTestUtils.setField(warmup, "topUsers", 10);
+		ReflectionTestUtils.setField(warmup, "topItems", 10);
+		ReflectionTestUtils.setField(warmup, "limits", new int[]{5});
+		ReflectionTestUtils.setField(warmup, "ratePerSecond", 1000.0);
+		ReflectionTestUtils.setField(warmup, "maxInFlight", 2);
+		ReflectionTestUtils.setField(warmup, "readinessThreshold", 0.5);
+	}
+
+	@AfterEach
+	void tearDown() {
+		warmup.shutdown();
+	}
+
+	@Test
+	void warmsPopularFirstThenInterleavesUsersAndItems() throws Exception {
+		ReflectionTestUtils.setField(warmup, "limits", new int[]{5, 10});
+		when(service.getMostActiveUsers(10)).thenReturn(List.of("u1", "u2"));
+		when(service.getMostViewedItems(10)).thenReturn(List.of("i1"));
+
+		warmup.start();
+		awaitCurrentRun();
+
+		InOrder order = inOrder(service);
+		order.verify(service).warmPopular(5);
+		order.verify(service).warmPopular(10);
+		order.verify(service).warmUserRecommendations("u1", 5);
+		order.verify(service).warmSimilarItems("i1", 5);
+		order.verify(service).warmUserRecommendations("u1", 10);
+		order.verify(service).warmSimilarItems("i1", 10);
+		order.verify(service).warmUserRecommendations("u2", 5);
+		order.verify(service).warmUserRecommendations("u2", 10);
+
+		assertEquals("DONE", status("state"));
+		assertEquals(8, status("total"));
+		assertEquals(8, status("completed"));
+		assertTrue(warmup.isReady());
+	}
+
+	@Test
+	void failedEntriesAreNotCountedAsCompleted() throws Exception {
+		when(service.getMostActiveUsers(10)).thenReturn(List.of("u1", "u2", "u3"));
+		when(service.warmUserRecommendations(anyString(), anyInt())).thenThrow(new RuntimeException("redis down"));
+
+		warmup.start();
+		awaitCurrentRun();
+
+		assertEquals("DONE", status("state"));
+		assertEquals(4, status("total"));
+		assertEquals(1, status("completed"));
+		assertEquals(3, status("failed"));
+		assertEquals(0.25, (double) status("progress"), 1e-9);
+	}
+
+	@Test
+	void abortsAfterConsecutiveFailures() throws Exception {
+		when(service.getMostActiveUsers(10)).thenReturn(List.of("u1", "u2", "u3", "u4", "u5", "u6", "u7"));
+		when(service.warmUserRecommendations(anyString(), anyInt())).thenThrow(new RuntimeException("redis down"));
+
+		warmup.start();
+		awaitCurrentRun();
+
+		assertEquals("FAILED", status("state"));
+		assertEquals(1, status("completed"));
+		assertEquals(5, status("failed"));
+		verify(service, times(5)).warmUserRecommendations(anyString(), anyInt());
+		assertTrue(warmup.isReady());
+	}
+
+	@Test
+	void waitsWhileLiveRequestsAreInFlight() throws Exception {
+		liveRequests.set(3);
+
+		warmup.start();
+		Thread.sleep(200);
+
+		verify(service, never()).warmPopular(anyInt());
+		assertEquals("RUNNING", status("state"));
+		assertFalse(warmup.isReady());
+
+		liveRequests.set(0);
+		awaitCurrentRun();
+
+		verify(service).warmPopular(5);
+		assertEquals("DONE", status("state"));
+	}
+
+	@Test
+	void restartReplacesTheRunningPass() throws Exception {
+		liveRequests.set(3);
+		warmup.start();
+		Future<?> first = currentFuture();
+
+		warmup.start();
+		assertTrue(first.isCancelled());
+		assertEquals("RUNNING", status("state"));
+
+		liveRequests.set(0);
+		awaitCurrentRun();
+
+		verify(service, times(1)).warmPopular(5);
+		assertEquals("DONE", status("state"));
+		assertEquals(1, status("completed"));
+	}
+
+	@Test
+	void planningErrorFailsTheRunWithoutThrowing() throws Exception {
+		when(service.getMostActiveUsers(anyInt())).thenThrow(new IllegalArgumentException("-1"));
+
+		warmup.start();
+		awaitCurrentRun();
+
+		assertEquals("FAILED", status("state"));
+		verify(service, never()).warmPopular(anyInt());
+		assertTrue(warmup.isReady());
+	}
+
+	@Test
+	void nonPositiveRateIsRejected() {
+		ReflectionTestUtils.setField(warmup, "ratePerSecond", 0.0);
+
+		warmup.start();
+
+		assertEquals("FAILED", status("state"));
+		assertNull(currentFuture());
+		verifyNoInteractions(service);
+	}
+
+	@Test
+	void idleBlocksReadinessUnlessThresholdIsZero() {
+		assertEquals("IDLE", status("state"));
+		assertFalse(warmup.isReady());
+
+		ReflectionTestUtils.setField(warmup, "readinessThreshold", 0.0);
+		assertTrue(warmup.isReady());
+	}
+
+	@Test
+	void disabledWarmupDoesNotBlockReadiness() {
+		ReflectionTestUtils.setField(warmup, "enabled", false);
+
+		warmup.onApplicationReady();
+
+		assertEquals("DISABLED", status("state"));
+		assertTrue(warmup.isReady());
+		verifyNoInteractions(service);
+	}
+
+	@Test
+	void startDoesNothingWhenDisabled() {
+		ReflectionTestUtils.setField(warmup, "enabled", false);
+
+		warmup.start();
+
+		assertEquals("DISABLED", status("state"));
+		assertNull(currentFuture());
+		assertTrue(warmup.isReady());
+		verifyNoInteractions(service);
+	}
+
+	private Object status(String key) {
+		return warmup.getStatus().get(key);
+	}
+
+	private Future<?> currentFuture() {
+		return (Future<?>) ReflectionTestUtils.getField(warmup, "currentFuture");
+	}
+
+	private void awaitCurrentRun() throws Exception {
+		currentFuture().get(5, TimeUnit.SECONDS);
+	}
+}
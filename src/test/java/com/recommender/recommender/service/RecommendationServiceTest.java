@@ -0,0 +1,40 @@
+package com.recommender.recommender.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecommendationServiceTest {
+
+	private RecommendationService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new RecommendationService();
+		ReflectionTestUtils.setField(service, "user2idx", Map.of("u1", 0, "u2", 1));
+		ReflectionTestUtils.setField(service, "item2idx", Map.of("i1", 0, "i2", 1));
+
+		Map<String, List<String>> interactions = new HashMap<>();
+		interactions.put("u1", List.of("i1"));
+		interactions.put("u2", List.of("i1", "i2", "i2"));
+		// Most active, but has no factor row
+		interactions.put("u3", List.of("i2", "i2", "i2", "unknown", "unknown", "unknown", "unknown", "unknown"));
+		ReflectionTestUtils.setField(service, "interactionsByUser", interactions);
+	}
+
+	@Test
+	void mostActiveUsersSkipsUsersWithoutFactors() {
+		assertEquals(List.of("u2", "u1"), service.getMostActiveUsers(10));
+		assertEquals(List.of("u2"), service.getMostActiveUsers(1));
+	}
+
+	@Test
+	void mostViewedItemsSkipsUnknownItems() {
+		assertEquals(List.of("i2", "i1"), service.getMostViewedItems(10));
+		assertEquals(List.of("i2"), service.getMostViewedItems(1));
+	}
+}